@@ -0,0 +1,139 @@
+package com.kaiburr.demo.config;
+
+import com.kaiburr.demo.exception.SearchIndexUnavailableException;
+import com.kaiburr.demo.model.Task;
+import com.kaiburr.demo.model.TaskExecution;
+import com.kaiburr.demo.model.TaskExecutionRecord;
+import com.kaiburr.demo.repository.TaskExecutionRecordRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Component
+public class ExecutionIndexInitializer {
+    
+    private static final Logger log = LoggerFactory.getLogger(ExecutionIndexInitializer.class);
+    
+    public static final String OUTPUT_TEXT_INDEX = "output_text_startTime";
+    public static final String TASK_ID_INDEX = "taskId";
+    
+    // Marks the one-time copy of pre-existing task history into taskExecutions
+    private static final String MIGRATIONS_COLLECTION = "migrations";
+    private static final String BACKFILL_MIGRATION_ID = "taskExecutionRecordBackfill";
+    
+    // startTime is a suffix key of the text index so the from/to range is checked
+    // on index keys instead of after fetching every matching document.
+    // Language "none" keeps error strings searchable as printed (no stemming or stop words).
+    private static final IndexDefinition OUTPUT_TEXT_INDEX_DEFINITION = new IndexDefinition() {
+        @Override
+        public Document getIndexKeys() {
+            return new Document("output", "text").append("startTime", 1);
+        }
+        
+        @Override
+        public Document getIndexOptions() {
+            return new Document("name", OUTPUT_TEXT_INDEX).append("default_language", "none");
+        }
+    };
+    
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    @Autowired
+    private TaskExecutionRecordRepository taskExecutionRecordRepository;
+    
+    @Autowired
+    private TaskExecutor taskExecutor;
+    
+    private volatile boolean indexesReady;
+    
+    // Runs off the startup thread so the app still starts (and answers 503) when MongoDB is down
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        taskExecutor.execute(() -> {
+            try {
+                ensureIndexes();
+                backfillExecutionRecords();
+            } catch (SearchIndexUnavailableException e) {
+                // Already logged; the next search retries the indexes, the next startup the backfill
+            } catch (DataAccessException e) {
+                log.warn("Could not backfill execution search records; will retry on the next startup", e);
+            }
+        });
+    }
+    
+    // Copies executions recorded before search existed out of tasks.taskExecutions.
+    // Records are saved by execution id, so an interrupted run can simply be repeated.
+    public void backfillExecutionRecords() {
+        Query done = new Query(Criteria.where("_id").is(BACKFILL_MIGRATION_ID));
+        if (mongoTemplate.exists(done, MIGRATIONS_COLLECTION)) {
+            return;
+        }
+        
+        long copied = 0;
+        try (Stream<Task> tasks = mongoTemplate.stream(new Query(), Task.class)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                if (task.getTaskExecutions() == null) {
+                    continue;
+                }
+                List<TaskExecutionRecord> records = new ArrayList<>();
+                for (TaskExecution execution : task.getTaskExecutions()) {
+                    // Without an id a re-run would insert a duplicate instead of overwriting
+                    if (execution.getId() != null) {
+                        records.add(new TaskExecutionRecord(task.getId(), execution));
+                    }
+                }
+                taskExecutionRecordRepository.saveAll(records);
+                copied += records.size();
+            }
+        }
+        
+        mongoTemplate.save(new Document("_id", BACKFILL_MIGRATION_ID).append("completedAt", new Date()),
+            MIGRATIONS_COLLECTION);
+        log.info("Backfilled {} task executions into execution search", copied);
+    }
+    
+    // Called before every search, so a failed startup attempt is retried and an
+    // early search waits for the text index instead of failing without it
+    public void ensureIndexes() {
+        if (indexesReady) {
+            return;
+        }
+        synchronized (this) {
+            if (indexesReady) {
+                return;
+            }
+            try {
+                IndexOperations indexOps = mongoTemplate.indexOps(TaskExecutionRecord.class);
+                indexOps.ensureIndex(new Index().on("taskId", Sort.Direction.ASC).named(TASK_ID_INDEX));
+                indexOps.ensureIndex(OUTPUT_TEXT_INDEX_DEFINITION);
+                indexesReady = true;
+            } catch (DataAccessException e) {
+                log.warn("Could not create execution search indexes; will retry on the next search", e);
+                throw new SearchIndexUnavailableException(
+                    "Execution search index is not available: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+}
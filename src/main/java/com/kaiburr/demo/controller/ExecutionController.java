@@ -0,0 +1,58 @@
+package com.kaiburr.demo.controller;
+
+import com.kaiburr.demo.model.TaskExecutionRecord;
+import com.kaiburr.demo.service.TaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Date;
+import java.util.List;
+
+@RestController
+@RequestMapping("/executions")
+@CrossOrigin(origins = "*")
+public class ExecutionController {
+    
+    private static final int MAX_PAGE_SIZE = 100;
+    
+    // Each page is ranked in memory, so only the first results can be paged through
+    private static final int MAX_RESULT_WINDOW = 1000;
+    
+    @Autowired
+    private TaskService taskService;
+    
+    // GET /executions/search?q={text}&from=&to=&page=&size= - find executions whose output matches
+    @GetMapping("/search")
+    public ResponseEntity<?> searchExecutions(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        if (q == null || q.trim().isEmpty()) {
+            return ResponseEntity.badRequest()
+                .body("Error: Search query is required");
+        }
+        if (page < 0) {
+            return ResponseEntity.badRequest()
+                .body("Error: Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest()
+                .body("Error: Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if ((long) (page + 1) * size > MAX_RESULT_WINDOW) {
+            return ResponseEntity.badRequest()
+                .body("Error: Only the first " + MAX_RESULT_WINDOW + " results can be paged; narrow the search with from/to");
+        }
+        if (from != null && to != null && from.after(to)) {
+            return ResponseEntity.badRequest()
+                .body("Error: 'from' must not be after 'to'");
+        }
+        
+        List<TaskExecutionRecord> executions = taskService.searchExecutions(q, from, to, page, size);
+        return ResponseEntity.ok(executions);
+    }
+}
@@ -0,0 +1,7 @@
+package com.kaiburr.demo.exception;
+
+public class SearchTooBroadException extends RuntimeException {
+    public SearchTooBroadException(String message) {
+        super(message);
+    }
+}
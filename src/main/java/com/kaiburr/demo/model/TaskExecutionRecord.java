@@ -0,0 +1,78 @@
+package com.kaiburr.demo.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+// Standalone copy of a TaskExecution used for output search. Its indexes are
+// created by ExecutionIndexInitializer, not by annotations, so they never leak
+// onto the executions embedded in Task.
+@Document(collection = "taskExecutions")
+public class TaskExecutionRecord {
+    @Id
+    private String id;
+    
+    private String taskId;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSS'Z'", timezone = "UTC")
+    private Date startTime;
+    
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSS'Z'", timezone = "UTC")
+    private Date endTime;
+    
+    private String output;
+    
+    // Constructors
+    public TaskExecutionRecord() {}
+    
+    public TaskExecutionRecord(String taskId, TaskExecution execution) {
+        this.id = execution.getId();
+        this.taskId = taskId;
+        this.startTime = execution.getStartTime();
+        this.endTime = execution.getEndTime();
+        this.output = execution.getOutput();
+    }
+    
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+    
+    public void setId(String id) {
+        this.id = id;
+    }
+    
+    public String getTaskId() {
+        return taskId;
+    }
+    
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+    
+    public Date getStartTime() {
+        return startTime;
+    }
+    
+    public void setStartTime(Date startTime) {
+        this.startTime = startTime;
+    }
+    
+    public Date getEndTime() {
+        return endTime;
+    }
+    
+    public void setEndTime(Date endTime) {
+        this.endTime = endTime;
+    }
+    
+    public String getOutput() {
+        return output;
+    }
+    
+    public void setOutput(String output) {
+        this.output = output;
+    }
+}
@@ -0,0 +1,11 @@
+package com.kaiburr.demo.repository;
+
+import com.kaiburr.demo.model.TaskExecutionRecord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskExecutionRecordRepository extends MongoRepository<TaskExecutionRecord, String> {
+    
+    void deleteByTaskId(String taskId);
+}
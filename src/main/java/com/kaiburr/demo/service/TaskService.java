@@ -1,11 +1,25 @@
 package com.kaiburr.demo.service;
 
+import com.kaiburr.demo.config.ExecutionIndexInitializer;
+import com.kaiburr.demo.exception.SearchTooBroadException;
 import com.kaiburr.demo.exception.TaskNotFoundException;
 import com.kaiburr.demo.exception.UnsafeCommandException;
 import com.kaiburr.demo.model.Task;
 import com.kaiburr.demo.model.TaskExecution;
+import com.kaiburr.demo.model.TaskExecutionRecord;
+import com.kaiburr.demo.repository.TaskExecutionRecordRepository;
 import com.kaiburr.demo.repository.TaskRepository;
+import com.mongodb.MongoException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
@@ -19,9 +33,23 @@ import java.util.UUID;
 @Service
 public class TaskService {
     
+    private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+    
     @Autowired
     private TaskRepository taskRepository;
     
+    @Autowired
+    private TaskExecutionRecordRepository taskExecutionRecordRepository;
+    
+    @Autowired
+    private MongoTemplate mongoTemplate;
+    
+    @Autowired
+    private ExecutionIndexInitializer executionIndexInitializer;
+    
+    // MongoDB error codes for an in-memory sort that ran out of memory (4.4+ and older servers)
+    private static final List<Integer> SORT_MEMORY_LIMIT_CODES = List.of(292, 16819, 16820);
+    
     // Dangerous commands that should be blocked
     private static final String[] DANGEROUS_COMMANDS = {
         "rm", "del", "format", "fdisk", "mkfs", "dd", "shutdown", "reboot",
@@ -43,17 +71,76 @@ public class TaskService {
     }
     
     public Task saveTask(Task task) {
-        return taskRepository.save(task);
+        if (task.getTaskExecutions() == null) {
+            task.setTaskExecutions(new ArrayList<>());
+        }
+        // Search records are keyed by execution id, so give client-supplied executions one
+        for (TaskExecution execution : task.getTaskExecutions()) {
+            if (execution.getId() == null) {
+                execution.setId(UUID.randomUUID().toString());
+            }
+        }
+        
+        Task savedTask = taskRepository.save(task);
+        
+        // PUT replaces the whole execution history, so replace the searchable copies with it
+        List<TaskExecutionRecord> records = new ArrayList<>();
+        for (TaskExecution execution : savedTask.getTaskExecutions()) {
+            records.add(new TaskExecutionRecord(savedTask.getId(), execution));
+        }
+        try {
+            taskExecutionRecordRepository.deleteByTaskId(savedTask.getId());
+            taskExecutionRecordRepository.saveAll(records);
+        } catch (DataAccessException e) {
+            log.error("Task {} was saved but its executions could not be re-indexed for search",
+                savedTask.getId(), e);
+        }
+        
+        return savedTask;
     }
     
     public void deleteTask(String id) {
         taskRepository.deleteById(id);
+        taskExecutionRecordRepository.deleteByTaskId(id);
     }
     
     public boolean taskExists(String id) {
         return taskRepository.existsById(id);
     }
     
+    // Full-text search over execution outputs; quoted terms in the query are matched as phrases.
+    // $text results cannot be sorted by an index, so they come back by relevance (newest first
+    // among equal scores) and the controller caps how deep callers can page.
+    public List<TaskExecutionRecord> searchExecutions(String query, Date from, Date to, int page, int size) {
+        executionIndexInitializer.ensureIndexes();
+        
+        TextQuery searchQuery = TextQuery.queryText(TextCriteria.forLanguage("none").matching(query))
+            .sortByScore();
+        
+        if (from != null || to != null) {
+            Criteria startTime = Criteria.where("startTime");
+            if (from != null) {
+                startTime = startTime.gte(from);
+            }
+            if (to != null) {
+                startTime = startTime.lte(to);
+            }
+            searchQuery.addCriteria(startTime);
+        }
+        
+        searchQuery.with(PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startTime", "id")));
+        try {
+            return mongoTemplate.find(searchQuery, TaskExecutionRecord.class);
+        } catch (DataAccessException e) {
+            if (e.getCause() instanceof MongoException mongoException
+                    && SORT_MEMORY_LIMIT_CODES.contains(mongoException.getCode())) {
+                throw new SearchTooBroadException(
+                    "Search matched too many executions to rank. Narrow it with a more specific query or a from/to range.");
+            }
+            throw e;
+        }
+    }
+    
     public boolean isCommandSafe(String command) {
         if (command == null || command.trim().isEmpty()) {
             return false;
@@ -117,6 +204,15 @@ public class TaskService {
         task.addTaskExecution(execution);
         taskRepository.save(task);
         
+        // Keep the searchable copy in taskExecutions in step with the task history.
+        // The two writes are not atomic; a failure here leaves the execution unsearchable.
+        try {
+            taskExecutionRecordRepository.save(new TaskExecutionRecord(task.getId(), execution));
+        } catch (DataAccessException e) {
+            log.error("Execution {} of task {} was saved but could not be indexed for search",
+                executionId, task.getId(), e);
+        }
+        
         return execution;
     }
 }
@@ -0,0 +1,217 @@
+package com.kaiburr.demo;
+
+import com.jayway.jsonpath.JsonPath;
+import com.kaiburr.demo.config.ExecutionIndexInitializer;
+import com.kaiburr.demo.model.Task;
+import com.kaiburr.demo.model.TaskExecution;
+import com.kaiburr.demo.model.TaskExecutionRecord;
+import com.kaiburr.demo.repository.TaskExecutionRecordRepository;
+import com.kaiburr.demo.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+public class ExecutionControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private TaskExecutionRecordRepository taskExecutionRecordRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ExecutionIndexInitializer executionIndexInitializer;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        taskRepository.deleteAll();
+        taskExecutionRecordRepository.deleteAll();
+
+        taskExecutionRecordRepository.save(execution("e1", "123", "2023-04-21T10:00:00Z", "Connection refused by host\n"));
+        taskExecutionRecordRepository.save(execution("e2", "123", "2023-04-22T10:00:00Z", "Hello World!\n"));
+        taskExecutionRecordRepository.save(execution("e3", "456", "2023-04-23T10:00:00Z", "host refused Connection\n"));
+    }
+
+    private TaskExecutionRecord execution(String id, String taskId, String startTime, String output) {
+        Date start = Date.from(Instant.parse(startTime));
+        return new TaskExecutionRecord(taskId, new TaskExecution(id, start, start, output));
+    }
+
+    // Runs task 789 and returns its execution response; the output differs by platform
+    private String executeTask() throws Exception {
+        taskRepository.save(new Task("789", "Print Hello", "John Smith", "echo Hello World!"));
+        return mockMvc.perform(put("/tasks/789/execute"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private String firstWord(String output) {
+        return output.trim().split("\\W+")[0];
+    }
+
+    @Test
+    void testExecutedTaskIsSearchable() throws Exception {
+        String response = executeTask();
+        String executionId = JsonPath.read(response, "$.id");
+        String output = JsonPath.read(response, "$.output");
+
+        mockMvc.perform(get("/executions/search").param("q", firstWord(output)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(executionId))
+                .andExpect(jsonPath("$[0].taskId").value("789"));
+    }
+
+    @Test
+    void testDeletedTaskIsNotSearchable() throws Exception {
+        String response = executeTask();
+        String executionId = JsonPath.read(response, "$.id");
+        String output = JsonPath.read(response, "$.output");
+
+        mockMvc.perform(delete("/tasks/789"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/executions/search").param("q", firstWord(output)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == '" + executionId + "')]").isEmpty());
+    }
+
+    @Test
+    void testUpdatedTaskWithoutHistoryIsNotSearchable() throws Exception {
+        String response = executeTask();
+        String executionId = JsonPath.read(response, "$.id");
+        String output = JsonPath.read(response, "$.output");
+
+        mockMvc.perform(put("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":\"789\",\"name\":\"Print Hi\",\"owner\":\"John Smith\",\"command\":\"echo Hi\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskExecutions").isEmpty());
+
+        mockMvc.perform(get("/executions/search").param("q", firstWord(output)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == '" + executionId + "')]").isEmpty());
+    }
+
+    @Test
+    void testUpdatedTaskHistoryIsSearchable() throws Exception {
+        mockMvc.perform(put("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":\"789\",\"name\":\"Print Hi\",\"owner\":\"John Smith\",\"command\":\"echo Hi\","
+                        + "\"taskExecutions\":[{\"id\":\"e4\",\"output\":\"Disk quota exceeded\"}]}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/executions/search?q=quota"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("e4"))
+                .andExpect(jsonPath("$[0].taskId").value("789"));
+    }
+
+    @Test
+    void testBackfillCopiesExistingHistoryOnce() throws Exception {
+        Task task = new Task("789", "Print Hello", "John Smith", "echo Hello World!");
+        task.addTaskExecution(new TaskExecution("e5", new Date(), new Date(), "Segmentation fault\n"));
+        taskRepository.save(task);
+
+        mongoTemplate.remove(new Query(), "migrations");
+        executionIndexInitializer.backfillExecutionRecords();
+        mongoTemplate.remove(new Query(), "migrations");
+        executionIndexInitializer.backfillExecutionRecords();
+
+        assertEquals(4, taskExecutionRecordRepository.count());
+        mockMvc.perform(get("/executions/search?q=segmentation"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("e5"))
+                .andExpect(jsonPath("$[0].taskId").value("789"));
+    }
+
+    @Test
+    void testSearchExecutions() throws Exception {
+        mockMvc.perform(get("/executions/search?q=refused"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value("e3"))
+                .andExpect(jsonPath("$[1].id").value("e1"));
+    }
+
+    @Test
+    void testSearchExecutionsByPhrase() throws Exception {
+        mockMvc.perform(get("/executions/search").param("q", "\"connection refused\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("e1"))
+                .andExpect(jsonPath("$[0].taskId").value("123"));
+    }
+
+    @Test
+    void testSearchExecutionsInTimeRange() throws Exception {
+        mockMvc.perform(get("/executions/search")
+                .param("q", "refused")
+                .param("from", "2023-04-22T00:00:00Z")
+                .param("to", "2023-04-24T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("e3"));
+    }
+
+    @Test
+    void testSearchExecutionsPaging() throws Exception {
+        mockMvc.perform(get("/executions/search?q=refused&page=1&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value("e1"));
+    }
+
+    @Test
+    void testSearchExecutionsBlankQuery() throws Exception {
+        mockMvc.perform(get("/executions/search?q= "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchExecutionsBeyondResultWindow() throws Exception {
+        mockMvc.perform(get("/executions/search?q=refused&page=10&size=100"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchExecutionsMissingQuery() throws Exception {
+        mockMvc.perform(get("/executions/search"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchExecutionsInvalidDate() throws Exception {
+        mockMvc.perform(get("/executions/search?q=refused&from=yesterday"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid parameter"));
+    }
+}